@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+#
+# Compares cold-start time and resident memory of the rewards API across launch modes:
+#   standard  - plain executable JAR (java -jar)
+#   cds-aot   - extracted JAR + class data sharing archive + Spring AOT initializers
+#   native    - GraalVM native executable, when target/rewards-api exists
+#
+# Usage: scripts/startup-benchmark.sh [target-dir]
+# Expects the JAR to have been built with the 'cds' (or 'native') Maven profile so that
+# the Spring AOT initializers are present for the cds-aot run.
+
+set -euo pipefail
+
+TARGET_DIR="${1:-target}"
+JAR="$(ls "$TARGET_DIR"/rewards-api-*.jar* 2>/dev/null | grep -v '\.original$' | head -n 1 || true)"
+EXTRACTED_DIR="$TARGET_DIR/cds"
+CDS_ARCHIVE="$EXTRACTED_DIR/application.jsa"
+NATIVE_BIN="$TARGET_DIR/rewards-api"
+LOG_DIR="$TARGET_DIR/startup-benchmark"
+TIMEOUT_SECONDS=60
+
+if [[ -z "$JAR" ]]; then
+    echo "No executable JAR found in $TARGET_DIR - run 'mvn -Pcds package' first." >&2
+    exit 1
+fi
+
+mkdir -p "$LOG_DIR"
+
+# Starts the given command, waits for Spring Boot's "Started ..." line and prints
+# "<startup seconds> <rss kB>" before shutting the process down.
+measure() {
+    local name="$1"; shift
+    local log="$LOG_DIR/$name.log"
+
+    "$@" --server.port=0 > "$log" 2>&1 &
+    local pid=$!
+
+    local waited=0
+    until grep -q "Started RewardsApiApplication" "$log"; do
+        if ! kill -0 "$pid" 2>/dev/null || (( waited >= TIMEOUT_SECONDS * 10 )); then
+            kill "$pid" 2>/dev/null || true
+            echo "$name failed to start, see $log" >&2
+            return 1
+        fi
+        sleep 0.1
+        waited=$((waited + 1))
+    done
+
+    local seconds rss
+    seconds="$(grep -o "Started RewardsApiApplication in [0-9.]* seconds" "$log" | awk '{print $4}')"
+    rss="$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$seconds $rss"
+}
+
+# Training run: extract the JAR into the CDS-friendly layout and dump the classes loaded
+# up to context refresh into a shared archive. Trained with the same flags as the measured
+# cds-aot run so the archive holds the classes that run actually loads.
+rm -rf "$EXTRACTED_DIR"
+java -Djarmode=tools -jar "$JAR" extract --destination "$EXTRACTED_DIR" > /dev/null
+APP_JAR="$EXTRACTED_DIR/$(basename "$JAR")"
+java -XX:ArchiveClassesAtExit="$CDS_ARCHIVE" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -jar "$APP_JAR" > "$LOG_DIR/cds-training.log" 2>&1
+
+declare -a rows
+rows+=("standard $(measure standard java -jar "$JAR")")
+rows+=("cds-aot $(measure cds-aot java -XX:SharedArchiveFile="$CDS_ARCHIVE" -Dspring.aot.enabled=true -jar "$APP_JAR")")
+if [[ -x "$NATIVE_BIN" ]]; then
+    rows+=("native $(measure native "$NATIVE_BIN")")
+fi
+
+read -r _ baseline_seconds baseline_rss <<< "${rows[0]}"
+printf '\n%-10s %12s %12s %10s %10s\n' "mode" "startup (s)" "RSS (MB)" "startup %" "RSS %"
+for row in "${rows[@]}"; do
+    read -r mode seconds rss <<< "$row"
+    awk -v m="$mode" -v s="$seconds" -v r="$rss" -v bs="$baseline_seconds" -v br="$baseline_rss" \
+        'BEGIN { printf "%-10s %12.3f %12.1f %9.0f%% %9.0f%%\n", m, s, r / 1024, 100 * s / bs, 100 * r / br }'
+done
@@ -1,13 +1,18 @@
 package com.mk.rewards;
 
+import com.mk.rewards.config.RewardsRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Spring Boot application.
  * Boots up the Mickel Keevs Fashion Rewards API service.
  */
 @SpringBootApplication
+@ImportRuntimeHints(RewardsRuntimeHints.class)
+@EnableScheduling
 public class RewardsApiApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,204 @@
+package com.mk.rewards.aggregate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable, time-bucketed reward totals for a single customer.
+ * Month buckets are kept as dense prefix sums so the total of any run of whole months takes two reads.
+ * Day buckets are kept sparse (only days with transactions) and are only consulted for the partial
+ * months at the edges of a window, which costs a binary search plus at most one month of buckets.
+ */
+public class CustomerRewardAggregate {
+
+    private final String customerName;
+
+    private final int firstMonth;
+    private final int[] monthPrefixPoints;
+    private final int[] monthPrefixCount;
+
+    private final long[] days;
+    private final int[] dayPoints;
+    private final int[] dayCount;
+
+    /**
+     * Builds the aggregate from day buckets.
+     *
+     * @param customerName name of the customer
+     * @param dayBuckets   non-empty map of day to {points, transaction count}, in date order
+     */
+    public CustomerRewardAggregate(String customerName, SortedMap<LocalDate, int[]> dayBuckets) {
+        this.customerName = customerName;
+
+        int size = dayBuckets.size();
+        this.days = new long[size];
+        this.dayPoints = new int[size];
+        this.dayCount = new int[size];
+
+        this.firstMonth = epochMonth(dayBuckets.firstKey());
+        int monthSpan = epochMonth(dayBuckets.lastKey()) - firstMonth + 1;
+        int[] monthPoints = new int[monthSpan];
+        int[] monthCount = new int[monthSpan];
+
+        int i = 0;
+        for (Map.Entry<LocalDate, int[]> bucket : dayBuckets.entrySet()) {
+            days[i] = bucket.getKey().toEpochDay();
+            dayPoints[i] = bucket.getValue()[0];
+            dayCount[i] = bucket.getValue()[1];
+            int month = epochMonth(bucket.getKey()) - firstMonth;
+            monthPoints[month] += dayPoints[i];
+            monthCount[month] += dayCount[i];
+            i++;
+        }
+
+        this.monthPrefixPoints = new int[monthSpan + 1];
+        this.monthPrefixCount = new int[monthSpan + 1];
+        for (int m = 0; m < monthSpan; m++) {
+            monthPrefixPoints[m + 1] = monthPrefixPoints[m] + monthPoints[m];
+            monthPrefixCount[m + 1] = monthPrefixCount[m] + monthCount[m];
+        }
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    /**
+     * @param date a day
+     * @return true if the customer has transactions on or after the day
+     */
+    public boolean hasDaysFrom(LocalDate date) {
+        return days.length > 0 && days[days.length - 1] >= date.toEpochDay();
+    }
+
+    /**
+     * Copies out the day buckets before the given day, so they can be combined with freshly scanned ones.
+     *
+     * @param date first day to leave out
+     * @return mutable map of day to {points, transaction count}, in date order
+     */
+    public TreeMap<LocalDate, int[]> daysBefore(LocalDate date) {
+        TreeMap<LocalDate, int[]> before = new TreeMap<>();
+        long end = date.toEpochDay();
+        for (int d = 0; d < days.length && days[d] < end; d++) {
+            before.put(LocalDate.ofEpochDay(days[d]), new int[]{dayPoints[d], dayCount[d]});
+        }
+        return before;
+    }
+
+    /**
+     * Computes reward totals for the inclusive date range.
+     * Totals for the whole months inside the range take two prefix-sum reads; partial months at either
+     * edge are summed from day buckets. The monthly breakdown reads one month bucket per whole month.
+     *
+     * @param from first day of the range
+     * @param to   last day of the range
+     * @return monthly breakdown (months with transactions only), total points and transaction count
+     */
+    public WindowRewards query(LocalDate from, LocalDate to) {
+        Map<String, Integer> monthlyRewards = new LinkedHashMap<>();
+        int totalPoints = 0;
+        int totalCount = 0;
+
+        int fromMonth = epochMonth(from);
+        int toMonth = epochMonth(to);
+        int fullStart = from.getDayOfMonth() == 1 ? fromMonth : fromMonth + 1;
+        int fullEnd = to.getDayOfMonth() == to.lengthOfMonth() ? toMonth : toMonth - 1;
+
+        // Leading partial month (also covers a range that lies inside a single month)
+        if (fromMonth < fullStart) {
+            LocalDate end = fromMonth == toMonth ? to : from.withDayOfMonth(from.lengthOfMonth());
+            int[] partial = sumDays(from, end);
+            totalPoints += partial[0];
+            totalCount += partial[1];
+            addMonth(monthlyRewards, fromMonth, partial[0], partial[1]);
+        }
+
+        // Whole months, clipped to the months this customer has data for
+        int lo = Math.max(fullStart, firstMonth) - firstMonth;
+        int hi = Math.min(fullEnd, firstMonth + monthPrefixPoints.length - 2) - firstMonth;
+        if (lo <= hi) {
+            totalPoints += monthPrefixPoints[hi + 1] - monthPrefixPoints[lo];
+            totalCount += monthPrefixCount[hi + 1] - monthPrefixCount[lo];
+            for (int m = lo; m <= hi; m++) {
+                addMonth(monthlyRewards, firstMonth + m,
+                        monthPrefixPoints[m + 1] - monthPrefixPoints[m], monthPrefixCount[m + 1] - monthPrefixCount[m]);
+            }
+        }
+
+        // Trailing partial month, unless the leading one already covered it
+        if (toMonth > fullEnd && !(fromMonth < fullStart && fromMonth == toMonth)) {
+            LocalDate start = fromMonth == toMonth ? from : to.withDayOfMonth(1);
+            int[] partial = sumDays(start, to);
+            totalPoints += partial[0];
+            totalCount += partial[1];
+            addMonth(monthlyRewards, toMonth, partial[0], partial[1]);
+        }
+
+        return new WindowRewards(monthlyRewards, totalPoints, totalCount);
+    }
+
+    /**
+     * @return {points, transaction count} of the day buckets in the inclusive range
+     */
+    private int[] sumDays(LocalDate from, LocalDate to) {
+        int[] sum = new int[2];
+        long end = to.toEpochDay();
+        for (int d = lowerBound(from.toEpochDay()); d < days.length && days[d] <= end; d++) {
+            sum[0] += dayPoints[d];
+            sum[1] += dayCount[d];
+        }
+        return sum;
+    }
+
+    private static void addMonth(Map<String, Integer> monthlyRewards, int epochMonth, int points, int count) {
+        if (count > 0) {
+            monthlyRewards.put(yearMonth(epochMonth).toString(), points);
+        }
+    }
+
+    private int lowerBound(long epochDay) {
+        int index = Arrays.binarySearch(days, epochDay);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static int epochMonth(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    private static YearMonth yearMonth(int epochMonth) {
+        return YearMonth.of(Math.floorDiv(epochMonth, 12), Math.floorMod(epochMonth, 12) + 1);
+    }
+
+    /**
+     * Reward totals for one window query.
+     */
+    public static class WindowRewards {
+        private final Map<String, Integer> monthlyRewards;
+        private final int totalRewards;
+        private final int transactionCount;
+
+        public WindowRewards(Map<String, Integer> monthlyRewards, int totalRewards, int transactionCount) {
+            this.monthlyRewards = monthlyRewards;
+            this.totalRewards = totalRewards;
+            this.transactionCount = transactionCount;
+        }
+
+        public Map<String, Integer> getMonthlyRewards() {
+            return monthlyRewards;
+        }
+
+        public int getTotalRewards() {
+            return totalRewards;
+        }
+
+        public int getTransactionCount() {
+            return transactionCount;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.mk.rewards.aggregate;
+
+import com.mk.rewards.dto.TransactionRewardRow;
+import com.mk.rewards.policy.DefaultRewardPolicy;
+import com.mk.rewards.policy.RewardPolicy;
+import com.mk.rewards.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory store of per-customer reward aggregates used to answer rolling-window queries
+ * without scanning raw transactions.
+ * Transactions are written by other systems, so the store is refreshed on a schedule off the request path.
+ * A refresh re-reads only the recent months (from the start of the month {@code rewards.aggregates.recent-days}
+ * ago) and combines them with the buckets already held for older days. A full rebuild over every transaction
+ * any supported window can reach runs every {@code rewards.aggregates.full-rebuild-interval-ms}, picking up
+ * back-dated changes older than the recent period and dropping days past the window horizon.
+ * Until the first build completes, window queries are answered from the database instead.
+ */
+@Component
+public class RewardAggregateStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RewardAggregateStore.class);
+
+    private final TransactionRepository repository;
+    private final RewardPolicy rewardPolicy;
+    private final int recentDays;
+    private final Duration fullRebuildInterval;
+
+    private volatile Map<String, CustomerRewardAggregate> aggregates;
+    private Instant lastFullBuild;
+
+    public RewardAggregateStore(TransactionRepository repository,
+                                @Value("${rewards.aggregates.recent-days:35}") int recentDays,
+                                @Value("${rewards.aggregates.full-rebuild-interval-ms:86400000}") long fullRebuildIntervalMs) {
+        this.repository = repository;
+        this.rewardPolicy = new DefaultRewardPolicy();
+        this.recentDays = recentDays;
+        this.fullRebuildInterval = Duration.ofMillis(fullRebuildIntervalMs);
+    }
+
+    /**
+     * Brings the aggregates up to date and swaps them in as a whole: a full rebuild when none exist yet
+     * or the full-rebuild interval has passed, otherwise an incremental refresh of the recent months.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${rewards.aggregates.refresh-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        LocalDate today = LocalDate.now();
+        Instant now = Instant.now();
+        if (aggregates == null || lastFullBuild == null
+                || !now.isBefore(lastFullBuild.plus(fullRebuildInterval))) {
+            rebuild(today);
+            lastFullBuild = now;
+        } else {
+            refreshRecent(today);
+        }
+    }
+
+    private void rebuild(LocalDate today) {
+        LocalDate horizon = RewardWindow.earliestStart(today);
+        Scan scan = scan(horizon);
+        Map<String, CustomerRewardAggregate> rebuilt = new HashMap<>();
+        scan.buckets.forEach((key, days) -> rebuilt.put(key, new CustomerRewardAggregate(scan.names.get(key), days)));
+        aggregates = rebuilt;
+        log.debug("Reward aggregates built for {} customers since {}", rebuilt.size(), horizon);
+    }
+
+    /**
+     * Re-reads transactions from the watermark (a month start, so older month buckets stay whole) and
+     * combines them with the existing buckets before it. Customers with nothing on or after the watermark,
+     * before or now, keep their aggregate unchanged.
+     */
+    private void refreshRecent(LocalDate today) {
+        LocalDate watermark = YearMonth.from(today.minusDays(recentDays)).atDay(1);
+        Scan recent = scan(watermark);
+        Map<String, CustomerRewardAggregate> current = aggregates;
+        Map<String, CustomerRewardAggregate> updated = new HashMap<>(current.size() + recent.buckets.size());
+        int changed = 0;
+
+        for (Map.Entry<String, CustomerRewardAggregate> entry : current.entrySet()) {
+            CustomerRewardAggregate aggregate = entry.getValue();
+            TreeMap<LocalDate, int[]> fresh = recent.buckets.remove(entry.getKey());
+            if (fresh == null && !aggregate.hasDaysFrom(watermark)) {
+                updated.put(entry.getKey(), aggregate);
+                continue;
+            }
+            TreeMap<LocalDate, int[]> days = aggregate.daysBefore(watermark);
+            if (fresh != null) {
+                days.putAll(fresh);
+            }
+            if (!days.isEmpty()) {
+                updated.put(entry.getKey(), new CustomerRewardAggregate(aggregate.getCustomerName(), days));
+            }
+            changed++;
+        }
+        recent.buckets.forEach((key, days) -> updated.put(key, new CustomerRewardAggregate(recent.names.get(key), days)));
+        changed += recent.buckets.size();
+
+        aggregates = updated;
+        log.debug("Reward aggregates refreshed from {}: {} of {} customers updated", watermark, changed, updated.size());
+    }
+
+    private Scan scan(LocalDate from) {
+        Scan scan = new Scan();
+        try (Stream<TransactionRewardRow> rows = repository.streamRewardRowsSince(from)) {
+            rows.forEach(row -> {
+                String key = normalize(row.getCustomerId());
+                scan.names.putIfAbsent(key, row.getCustomerName());
+                int[] bucket = scan.buckets.computeIfAbsent(key, k -> new TreeMap<>())
+                        .computeIfAbsent(row.getTransactionDate(), d -> new int[2]);
+                bucket[0] += rewardPolicy.calculate(row.getAmount());
+                bucket[1]++;
+            });
+        }
+        return scan;
+    }
+
+    /**
+     * @return true once the first build has completed
+     */
+    public boolean isReady() {
+        return aggregates != null;
+    }
+
+    /**
+     * @param customerId the customer ID (matched case-insensitively)
+     * @return the customer's aggregate, or null if the customer has no transactions in the window horizon
+     */
+    public CustomerRewardAggregate find(String customerId) {
+        Map<String, CustomerRewardAggregate> current = aggregates;
+        return current == null ? null : current.get(normalize(customerId));
+    }
+
+    private static String normalize(String customerId) {
+        return customerId.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Day buckets and names per normalized customer ID from one scan.
+     */
+    private static class Scan {
+        private final Map<String, String> names = new HashMap<>();
+        private final Map<String, TreeMap<LocalDate, int[]>> buckets = new HashMap<>();
+    }
+}
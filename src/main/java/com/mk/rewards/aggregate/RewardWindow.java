@@ -0,0 +1,72 @@
+package com.mk.rewards.aggregate;
+
+import com.mk.rewards.exception.InvalidWindowException;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A rolling reward window such as {@code 90d} (last 90 days) or {@code 3m} (last three months),
+ * always ending on the anchor date (normally today) inclusive.
+ */
+public class RewardWindow {
+
+    private static final Pattern FORMAT = Pattern.compile("(\\d{1,4})([dm])");
+    private static final int MAX_DAYS = 3660;
+    private static final int MAX_MONTHS = 120;
+
+    private final int amount;
+    private final boolean months;
+
+    private RewardWindow(int amount, boolean months) {
+        this.amount = amount;
+        this.months = months;
+    }
+
+    /**
+     * Parses a window expression: a positive count followed by {@code d} (days) or {@code m} (months).
+     *
+     * @param value window expression, e.g. "90d", "3m", "12m"
+     * @return the parsed window
+     * @throws InvalidWindowException if the expression is malformed or out of range
+     */
+    public static RewardWindow parse(String value) {
+        Matcher matcher = FORMAT.matcher(value.trim().toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw new InvalidWindowException("Invalid window '" + value + "'. Expected format: <n>d or <n>m, e.g. 90d or 3m");
+        }
+        int amount = Integer.parseInt(matcher.group(1));
+        boolean months = "m".equals(matcher.group(2));
+        if (amount < 1 || amount > (months ? MAX_MONTHS : MAX_DAYS)) {
+            throw new InvalidWindowException("Invalid window '" + value + "'. Allowed range is 1-"
+                    + MAX_DAYS + " days or 1-" + MAX_MONTHS + " months");
+        }
+        return new RewardWindow(amount, months);
+    }
+
+    /**
+     * @param anchor last day of the window (inclusive)
+     * @return first day of the window (inclusive)
+     */
+    public LocalDate startDate(LocalDate anchor) {
+        // Step back from the day after the anchor so a month-end anchor yields whole calendar months
+        return months ? anchor.plusDays(1).minusMonths(amount) : anchor.minusDays(amount - 1L);
+    }
+
+    /**
+     * @param anchor last day of the window (inclusive)
+     * @return the earliest start date of any window that {@link #parse(String)} accepts
+     */
+    public static LocalDate earliestStart(LocalDate anchor) {
+        LocalDate byMonths = anchor.plusDays(1).minusMonths(MAX_MONTHS);
+        LocalDate byDays = anchor.minusDays(MAX_DAYS - 1L);
+        return byMonths.isBefore(byDays) ? byMonths : byDays;
+    }
+
+    @Override
+    public String toString() {
+        return amount + (months ? "m" : "d");
+    }
+}
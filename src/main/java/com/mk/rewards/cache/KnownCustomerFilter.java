@@ -0,0 +1,61 @@
+package com.mk.rewards.cache;
+
+import com.mk.rewards.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Negative-lookup cache over the customer IDs that have transactions.
+ * Lets the service reject unknown customer IDs without querying the database.
+ * Transactions are written by other systems, so the filter is rebuilt on a schedule off the request path:
+ * a customer whose first transaction arrives after a rebuild is rejected for at most
+ * {@code rewards.customer-filter.refresh-interval-ms}. Until the first build every ID is treated as possibly known.
+ */
+@Component
+public class KnownCustomerFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(KnownCustomerFilter.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final TransactionRepository repository;
+    private volatile BloomFilter filter;
+
+    public KnownCustomerFilter(TransactionRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Rebuilds the filter from the distinct customer IDs currently in the transaction table.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${rewards.customer-filter.refresh-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long expected = repository.countDistinctCustomerIds();
+        BloomFilter rebuilt = new BloomFilter((int) Math.min(expected, Integer.MAX_VALUE), FALSE_POSITIVE_RATE);
+        try (Stream<String> customerIds = repository.streamDistinctCustomerIds()) {
+            customerIds.forEach(id -> rebuilt.put(normalize(id)));
+        }
+        filter = rebuilt;
+        log.debug("Known customer filter built with {} customer IDs", expected);
+    }
+
+    /**
+     * @param customerId the customer ID (matched case-insensitively)
+     * @return false only if the customer definitely has no transactions
+     */
+    public boolean mightExist(String customerId) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(normalize(customerId));
+    }
+
+    private static String normalize(String customerId) {
+        return customerId.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,78 @@
+package com.mk.rewards.config;
+
+import com.mk.rewards.dto.RewardSummaryResponse;
+import com.mk.rewards.dto.TransactionRewardRow;
+import com.mk.rewards.dto.TransactionSummary;
+import com.mk.rewards.exception.CustomerNotFoundException;
+import com.mk.rewards.exception.GlobalExceptionHandler;
+import com.mk.rewards.model.RewardStatement;
+import com.mk.rewards.model.StatementCheckpoint;
+import com.mk.rewards.model.StatementJobLock;
+import com.mk.rewards.model.Transaction;
+import com.mk.rewards.repository.RewardStatementRepository;
+import com.mk.rewards.repository.StatementCheckpointRepository;
+import com.mk.rewards.repository.StatementJobLockRepository;
+import com.mk.rewards.repository.TransactionRepository;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aop.framework.Advised;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.interceptor.TransactionalProxy;
+
+import java.util.List;
+
+/**
+ * Reflection, proxy and resource hints needed to run the API as a GraalVM native image
+ * or with the JVM AOT cache (see the {@code native} and {@code cds} Maven profiles).
+ * Spring AOT infers most of these on its own; they are declared here so the closed-world
+ * build never depends on that inference for the types the API and the statement job use.
+ */
+public class RewardsRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Hibernate reads and writes the entity fields directly and instantiates them through the protected constructors
+        for (Class<?> entity : List.of(Transaction.class, RewardStatement.class, StatementCheckpoint.class,
+                StatementJobLock.class)) {
+            hints.reflection().registerType(entity,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // Jackson serializes the response DTOs through their public getters
+        hints.reflection().registerType(RewardSummaryResponse.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(TransactionSummary.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // Hibernate instantiates the aggregate-scan projection through its constructor
+        hints.reflection().registerType(TransactionRewardRow.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // @ExceptionHandler methods are discovered reflectively on the advice bean
+        hints.reflection().registerType(GlobalExceptionHandler.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(CustomerNotFoundException.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // Spring Data backs each repository with a JDK dynamic proxy
+        for (Class<?> repository : List.of(TransactionRepository.class, RewardStatementRepository.class,
+                StatementCheckpointRepository.class, StatementJobLockRepository.class)) {
+            hints.reflection().registerType(repository,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(repository, Repository.class,
+                    TransactionalProxy.class, Advised.class, DecoratingProxy.class);
+        }
+
+        // Schema and seed data are loaded from the classpath at startup
+        hints.resources().registerPattern("schema.sql");
+        hints.resources().registerPattern("data.sql");
+    }
+}
@@ -1,6 +1,8 @@
 package com.mk.rewards.controller;
 
+import com.mk.rewards.aggregate.RewardWindow;
 import com.mk.rewards.dto.RewardSummaryResponse;
+import com.mk.rewards.exception.InvalidWindowException;
 import com.mk.rewards.service.RewardService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -11,7 +13,7 @@ import java.time.LocalDate;
 
 /**
  * REST controller that exposes endpoints for retrieving customer reward summaries.
- * Supports optional filtering by date range.
+ * Supports optional filtering by date range or by a rolling window (e.g. last 3 months).
  * Delegates business logic to RewardService.
  */
 @RestController
@@ -28,6 +30,7 @@ public class RewardController {
      * @param customerId the customer ID
      * @param fromDate optional start date for filtering transactions (yyyy-MM-dd)
      * @param toDate optional end date for filtering transactions (yyyy-MM-dd)
+     * @param window optional rolling window ending today (e.g. 90d, 3m, 12m); cannot be combined with dates
      * @return reward summary for the specified customer and date range
      */
     public RewardSummaryResponse getCustomerRewards(
@@ -35,8 +38,15 @@ public class RewardController {
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
             @RequestParam(required = false)
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) String window
     ) {
+        if (window != null) {
+            if (fromDate != null || toDate != null) {
+                throw new InvalidWindowException("Parameter 'window' cannot be combined with fromDate/toDate.");
+            }
+            return rewardService.calculateWindowRewards(customerId, RewardWindow.parse(window));
+        }
         return rewardService.calculateRewards(customerId, fromDate, toDate);
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.mk.rewards.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Scalar projection of a transaction with just the fields needed to build reward aggregates.
+ * Loaded instead of the entity so bulk scans do not fill the persistence context.
+ */
+public class TransactionRewardRow {
+    private final String customerId;
+    private final String customerName;
+    private final LocalDate transactionDate;
+    private final double amount;
+
+    public TransactionRewardRow(String customerId, String customerName, LocalDate transactionDate, double amount) {
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.transactionDate = transactionDate;
+        this.amount = amount;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public LocalDate getTransactionDate() {
+        return transactionDate;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+}
@@ -3,9 +3,11 @@ package com.mk.rewards.exception;
 /**
  * Custom exception thrown when a requested customer is not found
  * in the transaction records.
+ * This is an expected outcome on the request path (including probes for unknown IDs),
+ * so the exception is created without a stack trace.
  */
 public class CustomerNotFoundException extends RuntimeException {
     public CustomerNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-}
\ No newline at end of file
+}
@@ -1,18 +1,15 @@
 package com.mk.rewards.exception;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.mk.rewards.exception.CustomerNotFoundException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
-import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
-import java.util.Map;
-
 /**
  * Global exception handler for all unhandled exceptions across the application.
- * Maps specific exception types to custom HTTP responses with meaningful error messages.
+ * Maps specific exception types to RFC 7807 problem detail responses with meaningful error messages.
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -21,44 +18,32 @@ public class GlobalExceptionHandler {
      * Handles generic RuntimeExceptions and returns a 400 Bad Request response.
      *
      * @param ex the RuntimeException
-     * @return response entity with error details
+     * @return response entity with problem details
      */
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<Object> handleRuntime(RuntimeException ex) {
-        Map<String, Object> errorBody = new LinkedHashMap<>();
-        errorBody.put("timestamp", LocalDateTime.now());
-        errorBody.put("status", HttpStatus.BAD_REQUEST.value());
-        errorBody.put("error", "Bad Request");
-        errorBody.put("message", ex.getMessage());
-
-        return new ResponseEntity<>(errorBody, HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ProblemDetail> handleRuntime(RuntimeException ex) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
     /**
      * Handles uncaught exceptions and returns a 500 Internal Server Error response.
      *
      * @param ex the Exception
-     * @return response entity with error details
+     * @return response entity with problem details
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Object> handleGeneric(Exception ex) {
-        Map<String, Object> errorBody = new LinkedHashMap<>();
-        errorBody.put("timestamp", LocalDateTime.now());
-        errorBody.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        errorBody.put("error", "Internal Server Error");
-        errorBody.put("message", ex.getMessage());
-
-        return new ResponseEntity<>(errorBody, HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<ProblemDetail> handleGeneric(Exception ex) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     /**
      * Handles invalid arguments passed to API endpoints and returns a 400 Bad Request response.
      *
      * @param ex the IllegalArgumentException
-     * @return response entity with error details
+     * @return response entity with problem details
      */
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Object> handleIllegalArgument(IllegalArgumentException ex) {
+    public ResponseEntity<ProblemDetail> handleIllegalArgument(IllegalArgumentException ex) {
         return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
@@ -66,27 +51,22 @@ public class GlobalExceptionHandler {
      * Handles custom CustomerNotFoundException and returns a 404 Not Found response.
      *
      * @param ex the CustomerNotFoundException
-     * @return response entity with error details
+     * @return response entity with problem details
      */
     @ExceptionHandler(CustomerNotFoundException.class)
-    public ResponseEntity<Object> handleCustomerNotFound(CustomerNotFoundException ex) {
+    public ResponseEntity<ProblemDetail> handleCustomerNotFound(CustomerNotFoundException ex) {
         return buildErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND);
     }
     /**
      * Handles invalid format for query parameters (like invalid LocalDate).
      */
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
-    public ResponseEntity<Object> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+    public ResponseEntity<ProblemDetail> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
         String paramName = ex.getName();
         String message = "Invalid value for parameter '" + paramName + "'. Expected format: yyyy-MM-dd";
         return buildErrorResponse(message, HttpStatus.BAD_REQUEST);
     }
-    private ResponseEntity<Object> buildErrorResponse(String message, HttpStatus status) {
-        Map<String, Object> errorBody = new LinkedHashMap<>();
-        errorBody.put("timestamp", LocalDateTime.now());
-        errorBody.put("status", status.value());
-        errorBody.put("error", status.getReasonPhrase());
-        errorBody.put("message", message);
-        return new ResponseEntity<>(errorBody, status);
+    private ResponseEntity<ProblemDetail> buildErrorResponse(String message, HttpStatus status) {
+        return ResponseEntity.status(status).body(ProblemDetail.forStatusAndDetail(status, message));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.mk.rewards.exception;
+
+/**
+ * Thrown when a reward query's fromDate is after its toDate.
+ * This is an expected outcome on the request path, so the exception is created without a stack trace.
+ */
+public class InvalidDateRangeException extends IllegalArgumentException {
+
+    public InvalidDateRangeException() {
+        super("Invalid date range: fromDate cannot be after toDate.");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,18 @@
+package com.mk.rewards.exception;
+
+/**
+ * Thrown when a reward query's rolling window parameter is malformed, out of range,
+ * or combined with an explicit date range.
+ * This is an expected outcome on the request path, so the exception is created without a stack trace.
+ */
+public class InvalidWindowException extends IllegalArgumentException {
+
+    public InvalidWindowException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
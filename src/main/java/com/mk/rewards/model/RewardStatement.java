@@ -0,0 +1,70 @@
+package com.mk.rewards.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity representing a customer's reward statement for one calendar month.
+ * Produced by the monthly statement job; regenerating a statement overwrites it.
+ * Keyed by the customer ID as stored in the transactions (case-sensitive).
+ */
+@Entity
+@Table(name = "reward_statements")
+public class RewardStatement {
+    @Id
+    @Column(name = "statement_id")
+    private String statementId;
+    @Column(name = "statement_month")
+    private String statementMonth;
+    @Column(name = "customer_id")
+    private String customerId;
+    @Column(name = "customer_name")
+    private String customerName;
+    @Column(name = "total_rewards")
+    private int totalRewards;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    protected RewardStatement() {
+        // for JPA
+    }
+
+    /**
+     * Constructs a statement record.
+     *
+     * @param statementMonth month covered by the statement (yyyy-MM)
+     * @param customerId     identifier of the customer
+     * @param customerName   name of the customer
+     * @param totalRewards   reward points earned in the month
+     */
+    public RewardStatement(String statementMonth, String customerId, String customerName, int totalRewards) {
+        this.statementId = statementMonth + ":" + customerId;
+        this.statementMonth = statementMonth;
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.totalRewards = totalRewards;
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public String getStatementMonth() {
+        return statementMonth;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public int getTotalRewards() {
+        return totalRewards;
+    }
+}
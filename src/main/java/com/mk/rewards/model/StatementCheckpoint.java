@@ -0,0 +1,96 @@
+package com.mk.rewards.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity recording one partition of a monthly statement run and how far it has progressed.
+ * A partition covers customer IDs in [rangeStart, rangeEnd); the first partition starts at "" and
+ * the last has a null (unbounded) end.
+ * The partition plan is persisted on the first run for a month and reused when a run resumes.
+ */
+@Entity
+@Table(name = "statement_checkpoints")
+public class StatementCheckpoint {
+    @Id
+    @Column(name = "checkpoint_id")
+    private String checkpointId;
+    @Column(name = "statement_month")
+    private String statementMonth;
+    @Column(name = "partition_index")
+    private int partitionIndex;
+    @Column(name = "range_start")
+    private String rangeStart;
+    @Column(name = "range_end")
+    private String rangeEnd;
+    @Column(name = "last_customer_id")
+    private String lastCustomerId;
+    @Column(name = "completed")
+    private boolean completed;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    protected StatementCheckpoint() {
+        // for JPA
+    }
+
+    /**
+     * Constructs a checkpoint for a partition that has not started yet.
+     *
+     * @param statementMonth month being processed (yyyy-MM)
+     * @param partitionIndex position of the partition in the plan
+     * @param rangeStart     first customer ID of the partition (inclusive), "" for the first partition
+     * @param rangeEnd       customer ID ending the partition (exclusive), or null for unbounded
+     */
+    public StatementCheckpoint(String statementMonth, int partitionIndex, String rangeStart, String rangeEnd) {
+        this.checkpointId = statementMonth + "#" + partitionIndex;
+        this.statementMonth = statementMonth;
+        this.partitionIndex = partitionIndex;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+    }
+
+    public String getCheckpointId() {
+        return checkpointId;
+    }
+
+    public String getStatementMonth() {
+        return statementMonth;
+    }
+
+    public int getPartitionIndex() {
+        return partitionIndex;
+    }
+
+    public String getRangeStart() {
+        return rangeStart;
+    }
+
+    public String getRangeEnd() {
+        return rangeEnd;
+    }
+
+    public String getLastCustomerId() {
+        return lastCustomerId;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Records that all customers up to and including the given ID have statements.
+     *
+     * @param lastCustomerId last customer ID processed
+     */
+    public void advanceTo(String lastCustomerId) {
+        this.lastCustomerId = lastCustomerId;
+    }
+
+    public void markCompleted() {
+        this.completed = true;
+    }
+}
@@ -0,0 +1,43 @@
+package com.mk.rewards.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a lease on a batch job, shared by all instances through the database.
+ * An instance holds the lease while {@code lockedUntil} is in the future and {@code owner} is its ID.
+ */
+@Entity
+@Table(name = "statement_job_locks")
+public class StatementJobLock {
+    @Id
+    @Column(name = "lock_name")
+    private String lockName;
+    @Column(name = "owner")
+    private String owner;
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    protected StatementJobLock() {
+        // for JPA
+    }
+
+    public String getLockName() {
+        return lockName;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+}
@@ -0,0 +1,13 @@
+package com.mk.rewards.repository;
+
+import com.mk.rewards.model.RewardStatement;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * Repository interface for accessing generated monthly reward statements.
+ */
+public interface RewardStatementRepository extends JpaRepository<RewardStatement, String> {
+    List<RewardStatement> findByStatementMonthOrderByCustomerId(String statementMonth);
+}
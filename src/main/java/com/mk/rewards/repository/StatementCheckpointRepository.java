@@ -0,0 +1,13 @@
+package com.mk.rewards.repository;
+
+import com.mk.rewards.model.StatementCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the partition plan and progress of monthly statement runs.
+ */
+public interface StatementCheckpointRepository extends JpaRepository<StatementCheckpoint, String> {
+    List<StatementCheckpoint> findByStatementMonthOrderByPartitionIndex(String statementMonth);
+}
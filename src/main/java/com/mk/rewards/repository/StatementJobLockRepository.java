@@ -0,0 +1,37 @@
+package com.mk.rewards.repository;
+
+import com.mk.rewards.model.StatementJobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository for the cross-instance batch job leases.
+ * Both updates are single conditional statements, so concurrent instances cannot both succeed.
+ */
+public interface StatementJobLockRepository extends JpaRepository<StatementJobLock, String> {
+
+    /**
+     * Takes the lease if it is free or expired, or extends it if the owner already holds it.
+     *
+     * @return 1 if the lease was acquired, 0 if another instance holds it
+     */
+    @Modifying
+    @Transactional
+    @Query("update StatementJobLock l set l.owner = :owner, l.lockedUntil = :until"
+            + " where l.lockName = :lockName and (l.lockedUntil < :now or l.owner = :owner)")
+    int acquire(@Param("lockName") String lockName, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * Releases the lease if the owner still holds it.
+     */
+    @Modifying
+    @Transactional
+    @Query("update StatementJobLock l set l.lockedUntil = :now where l.lockName = :lockName and l.owner = :owner")
+    int release(@Param("lockName") String lockName, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
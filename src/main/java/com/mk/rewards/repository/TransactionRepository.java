@@ -1,10 +1,14 @@
 package com.mk.rewards.repository;
 
+import com.mk.rewards.dto.TransactionRewardRow;
 import com.mk.rewards.model.Transaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing Transaction data using Spring Data JPA.
@@ -14,4 +18,43 @@ public interface TransactionRepository extends JpaRepository<Transaction, String
     List<Transaction> findByCustomerIdIgnoreCaseAndTransactionDateBetween(String customerId, LocalDate from, LocalDate to);
 
     List<Transaction> findByCustomerIdIgnoreCase(String customerId);
+
+    @Query("select count(distinct t.customerId) from Transaction t")
+    long countDistinctCustomerIds();
+
+    @Query("select distinct t.customerId from Transaction t")
+    Stream<String> streamDistinctCustomerIds();
+
+    @Query("select new com.mk.rewards.dto.TransactionRewardRow(t.customerId, t.customerName, t.transactionDate, t.amount)"
+            + " from Transaction t where t.transactionDate >= :from")
+    Stream<TransactionRewardRow> streamRewardRowsSince(@Param("from") LocalDate from);
+
+    @Query("select distinct t.customerId from Transaction t"
+            + " where t.transactionDate between :from and :to order by t.customerId")
+    List<String> findDistinctCustomerIdsWithTransactionsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Sorted scans over one customer ID range, served by the (customer_id, transaction_date) index.
+     * Ranges start at a customer ID (inclusive) or after the last processed one (exclusive), and end
+     * before endId or, for the last range, are open-ended.
+     */
+    @Query("select t from Transaction t where t.customerId >= :startId and t.customerId < :endId"
+            + " and t.transactionDate between :from and :to order by t.customerId, t.transactionDate")
+    List<Transaction> findCustomerRange(@Param("startId") String startId, @Param("endId") String endId,
+                                        @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select t from Transaction t where t.customerId > :afterId and t.customerId < :endId"
+            + " and t.transactionDate between :from and :to order by t.customerId, t.transactionDate")
+    List<Transaction> findCustomerRangeAfter(@Param("afterId") String afterId, @Param("endId") String endId,
+                                             @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select t from Transaction t where t.customerId >= :startId"
+            + " and t.transactionDate between :from and :to order by t.customerId, t.transactionDate")
+    List<Transaction> findCustomerTail(@Param("startId") String startId,
+                                       @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select t from Transaction t where t.customerId > :afterId"
+            + " and t.transactionDate between :from and :to order by t.customerId, t.transactionDate")
+    List<Transaction> findCustomerTailAfter(@Param("afterId") String afterId,
+                                            @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -5,9 +5,14 @@
  */
 package com.mk.rewards.service;
 
+import com.mk.rewards.aggregate.CustomerRewardAggregate;
+import com.mk.rewards.aggregate.RewardAggregateStore;
+import com.mk.rewards.aggregate.RewardWindow;
+import com.mk.rewards.cache.KnownCustomerFilter;
 import com.mk.rewards.dto.RewardSummaryResponse;
 import com.mk.rewards.dto.TransactionSummary;
 import com.mk.rewards.exception.CustomerNotFoundException;
+import com.mk.rewards.exception.InvalidDateRangeException;
 import com.mk.rewards.model.Transaction;
 import com.mk.rewards.policy.RewardPolicy;
 import com.mk.rewards.policy.DefaultRewardPolicy;
@@ -27,11 +32,16 @@ public class RewardService {
 
     private final TransactionRepository repository;
     private final RewardPolicy rewardPolicy;
+    private final KnownCustomerFilter knownCustomers;
+    private final RewardAggregateStore aggregates;
 
     private static final Logger log = LoggerFactory.getLogger(RewardService.class);
 
-    public RewardService(TransactionRepository repository) {
+    public RewardService(TransactionRepository repository, KnownCustomerFilter knownCustomers,
+                         RewardAggregateStore aggregates) {
         this.repository = repository;
+        this.knownCustomers = knownCustomers;
+        this.aggregates = aggregates;
         this.rewardPolicy = new DefaultRewardPolicy();
     }
 
@@ -49,7 +59,12 @@ public class RewardService {
         log.info("Calculating rewards for customerId={} from {} to {}", customerId, fromDate, toDate);
         if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
             log.warn("Invalid date range: fromDate {} is after toDate {}", fromDate, toDate);
-            throw new IllegalArgumentException("Invalid date range: fromDate cannot be after toDate.");
+            throw new InvalidDateRangeException();
+        }
+
+        if (!knownCustomers.mightExist(customerId)) {
+            log.debug("Rejected unknown customerId={} without a database lookup", customerId);
+            throw new CustomerNotFoundException("No transactions found for customer ID: " + customerId);
         }
 
         List<Transaction> transactions;
@@ -101,6 +116,68 @@ public class RewardService {
         );
     }
 
+    /**
+     * Calculates rewards for a given customer over a rolling window ending today.
+     *
+     * @param customerId the customer ID
+     * @param window     rolling window, e.g. last 90 days or last 3 months
+     * @return reward summary including customer info, total points and monthly breakdown
+     * @throws CustomerNotFoundException if the customer has no transactions in the window
+     */
+    public RewardSummaryResponse calculateWindowRewards(String customerId, RewardWindow window) {
+        return calculateWindowRewards(customerId, window, LocalDate.now());
+    }
+
+    /**
+     * Calculates rewards over a rolling window ending on the given anchor date.
+     * Answered from the precomputed aggregates; falls back to a transaction query until they are built.
+     * Transactions are not listed in the response for window queries.
+     */
+    RewardSummaryResponse calculateWindowRewards(String customerId, RewardWindow window, LocalDate anchor) {
+        LocalDate fromDate = window.startDate(anchor);
+        log.info("Calculating rewards for customerId={} over window {} ({} to {})", customerId, window, fromDate, anchor);
+        if (!aggregates.isReady()) {
+            RewardSummaryResponse fallback = calculateRewards(customerId, fromDate, anchor);
+            return new RewardSummaryResponse(
+                    fallback.getCustomerId(),
+                    fallback.getCustomerName(),
+                    fallback.getFromDate(),
+                    fallback.getToDate(),
+                    fallback.getMonthlyRewards(),
+                    fallback.getTotalRewards(),
+                    null
+            );
+        }
+
+        CustomerRewardAggregate aggregate = aggregates.find(customerId);
+        CustomerRewardAggregate.WindowRewards rewards = aggregate != null ? aggregate.query(fromDate, anchor) : null;
+        if (rewards == null || rewards.getTransactionCount() == 0) {
+            log.debug("No transactions found for customerId={} in window {}", customerId, window);
+            throw new CustomerNotFoundException("No transactions found for customer ID: " + customerId);
+        }
+
+        return new RewardSummaryResponse(
+                customerId,
+                aggregate.getCustomerName(),
+                fromDate,
+                anchor,
+                rewards.getMonthlyRewards(),
+                rewards.getTotalRewards(),
+                null
+        );
+    }
+
+    /**
+     * Calculates total reward points for transactions that have already been loaded,
+     * e.g. by a batch job scanning many customers in one query.
+     *
+     * @param transactions transactions of a single customer
+     * @return total reward points
+     */
+    public int calculateTotalRewards(List<Transaction> transactions) {
+        return calculateTotalPoints(calculateMonthlyPoints(transactions));
+    }
+
     /**
      * Computes monthly reward points from a list of transactions.
      *
@@ -0,0 +1,290 @@
+package com.mk.rewards.statement;
+
+import com.mk.rewards.model.RewardStatement;
+import com.mk.rewards.model.StatementCheckpoint;
+import com.mk.rewards.model.Transaction;
+import com.mk.rewards.repository.RewardStatementRepository;
+import com.mk.rewards.repository.StatementCheckpointRepository;
+import com.mk.rewards.repository.StatementJobLockRepository;
+import com.mk.rewards.repository.TransactionRepository;
+import com.mk.rewards.service.RewardService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Batch job that generates the monthly reward statement of every customer.
+ * The customer ID keyspace is split into ranges of {@code partition-size} customers; the ranges are
+ * processed in parallel on a bounded ForkJoin pool, each with a single sorted scan of its transactions.
+ * Progress is checkpointed per partition after every batch, so a run that stops part-way resumes
+ * from the last committed customer of each unfinished partition.
+ * Only one instance runs the job at a time: a run first takes a database lease, renewed before every
+ * batch commit, so replicas sharing the database skip the run while another holds it, and a partition
+ * stops without writing if its lease has been lost. The schedule is off unless
+ * {@code rewards.statements.enabled} is set.
+ * Unlike the query API, statements are keyed by the customer ID exactly as stored: ranges are compared on
+ * the indexed raw column, so IDs that differ only by case would get separate statements. Transactions are
+ * expected to be recorded with canonical (upper-case) customer IDs, as in the sample data.
+ */
+@Component
+public class StatementJob {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementJob.class);
+
+    private static final String LOCK_NAME = "statements";
+
+    private final TransactionRepository transactionRepository;
+    private final RewardStatementRepository statementRepository;
+    private final StatementCheckpointRepository checkpointRepository;
+    private final StatementJobLockRepository lockRepository;
+    private final RewardService rewardService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int partitionSize;
+    private final int parallelism;
+    private final int batchSize;
+    private final boolean enabled;
+    private final Duration lockLease;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public StatementJob(TransactionRepository transactionRepository,
+                        RewardStatementRepository statementRepository,
+                        StatementCheckpointRepository checkpointRepository,
+                        StatementJobLockRepository lockRepository,
+                        RewardService rewardService,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${rewards.statements.partition-size:1000}") int partitionSize,
+                        @Value("${rewards.statements.parallelism:4}") int parallelism,
+                        @Value("${rewards.statements.batch-size:100}") int batchSize,
+                        @Value("${rewards.statements.enabled:false}") boolean enabled,
+                        @Value("${rewards.statements.lock-lease-minutes:60}") long lockLeaseMinutes) {
+        this.transactionRepository = transactionRepository;
+        this.statementRepository = statementRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.lockRepository = lockRepository;
+        this.rewardService = rewardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionSize = partitionSize;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.enabled = enabled;
+        this.lockLease = Duration.ofMinutes(lockLeaseMinutes);
+    }
+
+    /**
+     * Generates statements for the previous calendar month, by default at 02:00 on the 1st.
+     * Does nothing unless enabled, or when another instance is already running the job.
+     */
+    @Scheduled(cron = "${rewards.statements.cron:0 0 2 1 * *}")
+    public void generatePreviousMonth() {
+        if (!enabled) {
+            return;
+        }
+        YearMonth month = YearMonth.now().minusMonths(1);
+        if (tryGenerate(month) == null) {
+            log.info("Statement run for {} skipped: the job is running on another instance", month);
+        }
+    }
+
+    /**
+     * Generates (or resumes generating) the statements for the given month.
+     *
+     * @param month the statement month
+     * @return throughput and per-partition timing of this run
+     * @throws IllegalStateException if a run is already in progress on any instance or a partition fails
+     */
+    public StatementJobReport generate(YearMonth month) {
+        StatementJobReport report = tryGenerate(month);
+        if (report == null) {
+            throw new IllegalStateException("Statement job is already running");
+        }
+        return report;
+    }
+
+    /**
+     * @return the run's report, or null if this or another instance already holds the job
+     */
+    private StatementJobReport tryGenerate(YearMonth month) {
+        if (!running.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            if (!renewLease()) {
+                return null;
+            }
+            try {
+                return run(month);
+            } finally {
+                lockRepository.release(LOCK_NAME, instanceId, LocalDateTime.now());
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean renewLease() {
+        LocalDateTime now = LocalDateTime.now();
+        return lockRepository.acquire(LOCK_NAME, instanceId, now, now.plus(lockLease)) == 1;
+    }
+
+    private StatementJobReport run(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.atEndOfMonth();
+        List<StatementCheckpoint> plan = loadOrCreatePlan(month.toString(), from, to);
+
+        List<Callable<PartitionResult>> tasks = new ArrayList<>();
+        for (StatementCheckpoint checkpoint : plan) {
+            if (!checkpoint.isCompleted()) {
+                tasks.add(() -> processPartition(checkpoint, from, to));
+            }
+        }
+        log.info("Generating statements for {}: {} of {} partitions pending, parallelism {}",
+                month, tasks.size(), plan.size(), parallelism);
+
+        long start = System.nanoTime();
+        int customers = 0;
+        Map<Integer, Long> partitionMillis = new TreeMap<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<PartitionResult> future : pool.invokeAll(tasks)) {
+                PartitionResult result = future.get();
+                customers += result.customers;
+                partitionMillis.put(result.partitionIndex, result.millis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Statement generation for " + month + " was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Statement generation for " + month + " failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        StatementJobReport report = new StatementJobReport(month.toString(), plan.size(), customers, elapsedMillis, partitionMillis);
+        log.info("Statements for {} generated: {} customers in {} ms ({} customers/sec)",
+                month, customers, elapsedMillis, String.format("%.1f", report.getCustomersPerSecond()));
+        return report;
+    }
+
+    /**
+     * Returns the persisted partition plan for the month, creating it from the sorted customer IDs
+     * with transactions in the month if this is the first run.
+     */
+    private List<StatementCheckpoint> loadOrCreatePlan(String statementMonth, LocalDate from, LocalDate to) {
+        List<StatementCheckpoint> plan = checkpointRepository.findByStatementMonthOrderByPartitionIndex(statementMonth);
+        if (!plan.isEmpty()) {
+            log.info("Resuming statement run for {} from checkpoints", statementMonth);
+            return plan;
+        }
+
+        List<String> customerIds = transactionRepository.findDistinctCustomerIdsWithTransactionsBetween(from, to);
+        plan = new ArrayList<>();
+        for (int start = 0, index = 0; index == 0 || start < customerIds.size(); start += partitionSize, index++) {
+            // The outer bounds are left open ("" sorts first) so the plan also covers IDs added before a resumed run
+            String rangeStart = index == 0 ? "" : customerIds.get(start);
+            String rangeEnd = start + partitionSize < customerIds.size() ? customerIds.get(start + partitionSize) : null;
+            plan.add(new StatementCheckpoint(statementMonth, index, rangeStart, rangeEnd));
+        }
+        return checkpointRepository.saveAll(plan);
+    }
+
+    private PartitionResult processPartition(StatementCheckpoint checkpoint, LocalDate from, LocalDate to) {
+        long start = System.nanoTime();
+        List<Transaction> transactions = scanPartition(checkpoint, from, to);
+
+        List<RewardStatement> batch = new ArrayList<>();
+        int customers = 0;
+        int i = 0;
+        while (i < transactions.size()) {
+            String customerId = transactions.get(i).getCustomerId();
+            int end = i;
+            while (end < transactions.size() && transactions.get(end).getCustomerId().equals(customerId)) {
+                end++;
+            }
+            List<Transaction> customerTransactions = transactions.subList(i, end);
+            batch.add(new RewardStatement(checkpoint.getStatementMonth(), customerId,
+                    customerTransactions.get(0).getCustomerName(),
+                    rewardService.calculateTotalRewards(customerTransactions)));
+            customers++;
+            if (batch.size() >= batchSize) {
+                commit(checkpoint, batch);
+                batch = new ArrayList<>();
+            }
+            i = end;
+        }
+        checkpoint.markCompleted();
+        commit(checkpoint, batch);
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Statement partition {} [{}, {}) for {}: {} customers in {} ms", checkpoint.getPartitionIndex(),
+                checkpoint.getRangeStart(), checkpoint.getRangeEnd(), checkpoint.getStatementMonth(), customers, millis);
+        return new PartitionResult(checkpoint.getPartitionIndex(), customers, millis);
+    }
+
+    /**
+     * Reads the partition's remaining transactions with a single bounded, sorted range query.
+     */
+    private List<Transaction> scanPartition(StatementCheckpoint checkpoint, LocalDate from, LocalDate to) {
+        String afterId = checkpoint.getLastCustomerId();
+        String endId = checkpoint.getRangeEnd();
+        if (endId == null) {
+            return afterId == null
+                    ? transactionRepository.findCustomerTail(checkpoint.getRangeStart(), from, to)
+                    : transactionRepository.findCustomerTailAfter(afterId, from, to);
+        }
+        return afterId == null
+                ? transactionRepository.findCustomerRange(checkpoint.getRangeStart(), endId, from, to)
+                : transactionRepository.findCustomerRangeAfter(afterId, endId, from, to);
+    }
+
+    /**
+     * Saves a batch of statements together with the partition's new checkpoint in one transaction,
+     * after first renewing the lease so a run that has lost it never writes.
+     */
+    private void commit(StatementCheckpoint checkpoint, List<RewardStatement> batch) {
+        if (!renewLease()) {
+            throw new IllegalStateException("Statement job lease lost during partition " + checkpoint.getPartitionIndex());
+        }
+        if (!batch.isEmpty()) {
+            checkpoint.advanceTo(batch.get(batch.size() - 1).getCustomerId());
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            statementRepository.saveAll(batch);
+            checkpointRepository.save(checkpoint);
+        });
+    }
+
+    private static class PartitionResult {
+        private final int partitionIndex;
+        private final int customers;
+        private final long millis;
+
+        private PartitionResult(int partitionIndex, int customers, long millis) {
+            this.partitionIndex = partitionIndex;
+            this.customers = customers;
+            this.millis = millis;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.mk.rewards.statement;
+
+import java.util.Map;
+
+/**
+ * Outcome of one monthly statement run: how many customers were processed, how long it took
+ * and how long each partition took. Partitions completed by an earlier run are not included.
+ */
+public class StatementJobReport {
+
+    private final String statementMonth;
+    private final int partitions;
+    private final int customers;
+    private final long elapsedMillis;
+    private final Map<Integer, Long> partitionMillis;
+
+    /**
+     * @param statementMonth  month the statements were generated for (yyyy-MM)
+     * @param partitions      number of partitions in the month's plan
+     * @param customers       customers processed by this run
+     * @param elapsedMillis   wall-clock time of this run
+     * @param partitionMillis processing time per partition index, for partitions run by this run
+     */
+    public StatementJobReport(String statementMonth, int partitions, int customers, long elapsedMillis,
+                              Map<Integer, Long> partitionMillis) {
+        this.statementMonth = statementMonth;
+        this.partitions = partitions;
+        this.customers = customers;
+        this.elapsedMillis = elapsedMillis;
+        this.partitionMillis = partitionMillis;
+    }
+
+    public String getStatementMonth() {
+        return statementMonth;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public int getCustomers() {
+        return customers;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public Map<Integer, Long> getPartitionMillis() {
+        return partitionMillis;
+    }
+
+    public double getCustomersPerSecond() {
+        return elapsedMillis == 0 ? customers * 1000.0 : customers * 1000.0 / elapsedMillis;
+    }
+}
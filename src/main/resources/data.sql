@@ -1,4 +1,4 @@
-INSERT INTO transactions (transaction_id, customer_id, customer_name, amount, transaction_date) VALUES
+MERGE INTO transactions (transaction_id, customer_id, customer_name, amount, transaction_date) KEY (transaction_id) VALUES
                                                                                                     ('TXN1001', 'CUST001', 'Murali Krishna', 120.0, '2024-04-15'),
                                                                                                     ('TXN1002', 'CUST001', 'Murali Krishna', 90.0, '2024-05-10'),
                                                                                                     ('TXN1003', 'CUST001', 'Murali Krishna', 130.0, '2024-06-05'),
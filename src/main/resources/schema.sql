@@ -1,7 +1,37 @@
-CREATE TABLE transactions (
+CREATE TABLE IF NOT EXISTS transactions (
                               transaction_id VARCHAR(50) PRIMARY KEY,
                               customer_id VARCHAR(50),
                               customer_name VARCHAR(100),
                               amount DOUBLE,
                               transaction_date DATE
-);
\ No newline at end of file
+);
+
+CREATE INDEX IF NOT EXISTS idx_transactions_customer_date ON transactions (customer_id, transaction_date);
+
+CREATE TABLE IF NOT EXISTS reward_statements (
+                              statement_id VARCHAR(60) PRIMARY KEY,
+                              statement_month VARCHAR(7),
+                              customer_id VARCHAR(50),
+                              customer_name VARCHAR(100),
+                              total_rewards INT
+);
+
+CREATE TABLE IF NOT EXISTS statement_checkpoints (
+                              checkpoint_id VARCHAR(20) PRIMARY KEY,
+                              statement_month VARCHAR(7),
+                              partition_index INT,
+                              range_start VARCHAR(50),
+                              range_end VARCHAR(50),
+                              last_customer_id VARCHAR(50),
+                              completed BOOLEAN
+);
+
+CREATE TABLE IF NOT EXISTS statement_job_locks (
+                              lock_name VARCHAR(50) PRIMARY KEY,
+                              owner VARCHAR(50),
+                              locked_until TIMESTAMP
+);
+
+MERGE INTO statement_job_locks l
+    USING (VALUES ('statements')) AS seed (lock_name) ON l.lock_name = seed.lock_name
+    WHEN NOT MATCHED THEN INSERT (lock_name, owner, locked_until) VALUES (seed.lock_name, NULL, TIMESTAMP '1970-01-01 00:00:00');
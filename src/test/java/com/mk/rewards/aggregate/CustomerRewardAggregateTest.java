@@ -0,0 +1,76 @@
+package com.mk.rewards.aggregate;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the time-bucketed reward aggregate.
+ */
+public class CustomerRewardAggregateTest {
+
+    private TreeMap<LocalDate, int[]> days() {
+        TreeMap<LocalDate, int[]> days = new TreeMap<>();
+        days.put(LocalDate.of(2024, 1, 31), new int[]{10, 1});
+        days.put(LocalDate.of(2024, 2, 1), new int[]{20, 1});
+        days.put(LocalDate.of(2024, 2, 29), new int[]{30, 2});
+        days.put(LocalDate.of(2024, 4, 15), new int[]{0, 1});
+        days.put(LocalDate.of(2024, 5, 10), new int[]{40, 1});
+        return days;
+    }
+
+    private CustomerRewardAggregate aggregate() {
+        return new CustomerRewardAggregate("Murali Krishna", days());
+    }
+
+    @Test
+    public void testWholeMonthsFromPrefixSums() {
+        CustomerRewardAggregate.WindowRewards rewards = aggregate().query(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 5, 31));
+
+        assertEquals(Map.of("2024-01", 10, "2024-02", 50, "2024-04", 0, "2024-05", 40), rewards.getMonthlyRewards());
+        assertEquals(100, rewards.getTotalRewards());
+        assertEquals(6, rewards.getTransactionCount());
+    }
+
+    @Test
+    public void testPartialEdgeMonthsUseDayBuckets() {
+        CustomerRewardAggregate.WindowRewards rewards = aggregate().query(LocalDate.of(2024, 2, 2), LocalDate.of(2024, 5, 9));
+
+        assertEquals(Map.of("2024-02", 30, "2024-04", 0), rewards.getMonthlyRewards());
+        assertEquals(30, rewards.getTotalRewards());
+        assertEquals(3, rewards.getTransactionCount());
+    }
+
+    @Test
+    public void testMatchesDayByDaySumForAllRanges() {
+        TreeMap<LocalDate, int[]> days = days();
+        CustomerRewardAggregate aggregate = new CustomerRewardAggregate("Murali Krishna", days);
+
+        for (LocalDate from = LocalDate.of(2023, 12, 25); from.isBefore(LocalDate.of(2024, 6, 5)); from = from.plusDays(1)) {
+            for (LocalDate to = from; to.isBefore(LocalDate.of(2024, 6, 5)); to = to.plusDays(1)) {
+                int points = 0;
+                int count = 0;
+                for (Map.Entry<LocalDate, int[]> day : days.subMap(from, true, to, true).entrySet()) {
+                    points += day.getValue()[0];
+                    count += day.getValue()[1];
+                }
+                CustomerRewardAggregate.WindowRewards rewards = aggregate.query(from, to);
+                assertEquals(points, rewards.getTotalRewards(), from + ".." + to);
+                assertEquals(count, rewards.getTransactionCount(), from + ".." + to);
+                assertEquals(points, rewards.getMonthlyRewards().values().stream().mapToInt(Integer::intValue).sum());
+            }
+        }
+    }
+
+    @Test
+    public void testRangeOutsideDataIsEmpty() {
+        CustomerRewardAggregate.WindowRewards rewards = aggregate().query(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31));
+
+        assertTrue(rewards.getMonthlyRewards().isEmpty());
+        assertEquals(0, rewards.getTransactionCount());
+    }
+}
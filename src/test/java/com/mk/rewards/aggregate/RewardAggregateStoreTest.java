@@ -0,0 +1,77 @@
+package com.mk.rewards.aggregate;
+
+import com.mk.rewards.dto.TransactionRewardRow;
+import com.mk.rewards.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for full and incremental refreshes of the reward aggregate store.
+ */
+public class RewardAggregateStoreTest {
+
+    private TransactionRepository mockRepository;
+    private RewardAggregateStore store;
+
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate watermark = YearMonth.from(today.minusDays(35)).atDay(1);
+    private final LocalDate oldDay = watermark.minusMonths(3);
+
+    @BeforeEach
+    public void setup() {
+        mockRepository = Mockito.mock(TransactionRepository.class);
+        store = new RewardAggregateStore(mockRepository, 35, 86_400_000L);
+    }
+
+    @Test
+    public void testIncrementalRefreshRescansOnlyRecentMonths() {
+        Mockito.when(mockRepository.streamRewardRowsSince(Mockito.any())).thenReturn(
+                Stream.of(
+                        new TransactionRewardRow("CUST001", "Murali Krishna", oldDay, 120.0),
+                        new TransactionRewardRow("CUST001", "Murali Krishna", today, 90.0),
+                        new TransactionRewardRow("CUST003", "Ram Prasad", oldDay, 75.0)),
+                Stream.of(
+                        new TransactionRewardRow("CUST001", "Murali Krishna", today, 90.0),
+                        new TransactionRewardRow("CUST001", "Murali Krishna", today, 130.0),
+                        new TransactionRewardRow("CUST004", "Sita Devi", today, 55.0)));
+
+        store.refresh();
+        CustomerRewardAggregate untouched = store.find("CUST003");
+        store.refresh();
+
+        ArgumentCaptor<LocalDate> scannedFrom = ArgumentCaptor.forClass(LocalDate.class);
+        Mockito.verify(mockRepository, Mockito.times(2)).streamRewardRowsSince(scannedFrom.capture());
+        List<LocalDate> scans = scannedFrom.getAllValues();
+        assertEquals(RewardWindow.earliestStart(today), scans.get(0));
+        assertEquals(watermark, scans.get(1));
+
+        // Old bucket kept, recent days replaced by the rescan
+        assertEquals(90 + 40 + 110, store.find("cust001").query(oldDay, today).getTotalRewards());
+        assertEquals(40 + 110, store.find("CUST001").query(watermark, today).getTotalRewards());
+        // Customers without recent activity keep their aggregate; new customers appear
+        assertSame(untouched, store.find("CUST003"));
+        assertEquals(5, store.find("CUST004").query(today, today).getTotalRewards());
+    }
+
+    @Test
+    public void testIncrementalRefreshDropsRecentDaysThatDisappeared() {
+        Mockito.when(mockRepository.streamRewardRowsSince(Mockito.any())).thenReturn(
+                Stream.of(new TransactionRewardRow("CUST001", "Murali Krishna", today, 120.0)),
+                Stream.empty());
+
+        store.refresh();
+        assertNotNull(store.find("CUST001"));
+        store.refresh();
+
+        assertNull(store.find("CUST001"));
+    }
+}
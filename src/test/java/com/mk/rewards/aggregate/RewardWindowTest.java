@@ -0,0 +1,32 @@
+package com.mk.rewards.aggregate;
+
+import com.mk.rewards.exception.InvalidWindowException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for rolling window parsing and start dates.
+ */
+public class RewardWindowTest {
+
+    @Test
+    public void testWindowStartDates() {
+        LocalDate anchor = LocalDate.of(2024, 6, 30);
+        assertEquals(LocalDate.of(2024, 4, 2), RewardWindow.parse("90d").startDate(anchor));
+        assertEquals(LocalDate.of(2024, 4, 1), RewardWindow.parse("3m").startDate(anchor));
+        assertEquals(LocalDate.of(2023, 7, 1), RewardWindow.parse("12M").startDate(anchor));
+        assertEquals(LocalDate.of(2024, 3, 11), RewardWindow.parse("3m").startDate(LocalDate.of(2024, 6, 10)));
+        assertEquals(LocalDate.of(2024, 2, 1), RewardWindow.parse("1m").startDate(LocalDate.of(2024, 2, 29)));
+    }
+
+    @Test
+    public void testInvalidWindowsRejected() {
+        InvalidWindowException ex = assertThrows(InvalidWindowException.class, () -> RewardWindow.parse("3y"));
+        assertEquals(0, ex.getStackTrace().length);
+        assertThrows(InvalidWindowException.class, () -> RewardWindow.parse("0d"));
+        assertThrows(InvalidWindowException.class, () -> RewardWindow.parse("121m"));
+    }
+}
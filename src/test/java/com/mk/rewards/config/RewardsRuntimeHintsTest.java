@@ -0,0 +1,68 @@
+package com.mk.rewards.config;
+
+import com.mk.rewards.dto.RewardSummaryResponse;
+import com.mk.rewards.dto.TransactionRewardRow;
+import com.mk.rewards.dto.TransactionSummary;
+import com.mk.rewards.exception.GlobalExceptionHandler;
+import com.mk.rewards.model.RewardStatement;
+import com.mk.rewards.model.StatementCheckpoint;
+import com.mk.rewards.model.StatementJobLock;
+import com.mk.rewards.model.Transaction;
+import com.mk.rewards.repository.RewardStatementRepository;
+import com.mk.rewards.repository.StatementCheckpointRepository;
+import com.mk.rewards.repository.StatementJobLockRepository;
+import com.mk.rewards.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.aop.framework.Advised;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.interceptor.TransactionalProxy;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the native-image / AOT hints registered for the API types.
+ */
+public class RewardsRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    public void setup() {
+        hints = new RuntimeHints();
+        new RewardsRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    public void testReflectionHintsForEntityAndDtos() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Transaction.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(RewardStatement.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(StatementCheckpoint.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(StatementJobLock.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(RewardSummaryResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TransactionSummary.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TransactionRewardRow.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(GlobalExceptionHandler.class).test(hints));
+    }
+
+    @Test
+    public void testProxyHintsForRepositories() {
+        for (Class<?> repository : List.of(TransactionRepository.class, RewardStatementRepository.class,
+                StatementCheckpointRepository.class, StatementJobLockRepository.class)) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(repository).test(hints));
+            assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(repository, Repository.class,
+                    TransactionalProxy.class, Advised.class, DecoratingProxy.class).test(hints));
+        }
+    }
+
+    @Test
+    public void testResourceHintsForSqlScripts() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("schema.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("data.sql").test(hints));
+    }
+}
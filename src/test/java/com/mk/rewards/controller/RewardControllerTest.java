@@ -1,6 +1,8 @@
 package com.mk.rewards.controller;
 
 import com.mk.rewards.dto.RewardSummaryResponse;
+import com.mk.rewards.exception.CustomerNotFoundException;
+import com.mk.rewards.exception.InvalidDateRangeException;
 import com.mk.rewards.service.RewardService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -52,6 +54,38 @@ public class RewardControllerTest {
                 .andExpect(jsonPath("$.totalRewards").value(240));
     }
 
+    @Test
+    public void testGetRewards_window() throws Exception {
+        RewardSummaryResponse mockResponse = new RewardSummaryResponse(
+                "CUST001",
+                "Murali Krishna",
+                LocalDate.of(2024, 3, 11),
+                LocalDate.of(2024, 6, 10),
+                Map.of("2024-04", 90, "2024-05", 40, "2024-06", 110),
+                240,
+                null
+        );
+
+        Mockito.when(rewardService.calculateWindowRewards(Mockito.eq("CUST001"), Mockito.any()))
+                .thenReturn(mockResponse);
+
+        mockMvc.perform(get("/api/rewards/CUST001").param("window", "3m"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRewards").value(240))
+                .andExpect(jsonPath("$.transactions").doesNotExist());
+    }
+
+    @Test
+    public void testGetRewards_invalidWindow() throws Exception {
+        mockMvc.perform(get("/api/rewards/CUST001").param("window", "3y"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/rewards/CUST001")
+                        .param("window", "3m")
+                        .param("fromDate", "2024-04-01"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testGetRewards_customerNotFound() throws Exception {
         Mockito.when(rewardService.calculateRewards(Mockito.eq("INVALID"), Mockito.any(), Mockito.any()))
@@ -59,6 +93,35 @@ public class RewardControllerTest {
 
         mockMvc.perform(get("/api/rewards/INVALID"))
                 .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.message").value("No transactions found"));
+                .andExpect(content().contentType("application/problem+json"))
+                .andExpect(jsonPath("$.detail").value("No transactions found"));
+    }
+
+    @Test
+    public void testGetRewards_unknownCustomerReturnsProblemDetail() throws Exception {
+        Mockito.when(rewardService.calculateRewards(Mockito.eq("CUST999"), Mockito.any(), Mockito.any()))
+                .thenThrow(new CustomerNotFoundException("No transactions found for customer ID: CUST999"));
+
+        mockMvc.perform(get("/api/rewards/CUST999"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType("application/problem+json"))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.title").value("Not Found"))
+                .andExpect(jsonPath("$.detail").value("No transactions found for customer ID: CUST999"))
+                .andExpect(jsonPath("$.instance").value("/api/rewards/CUST999"));
+    }
+
+    @Test
+    public void testGetRewards_invalidDateRangeReturnsBadRequest() throws Exception {
+        Mockito.when(rewardService.calculateRewards(Mockito.eq("CUST001"), Mockito.any(), Mockito.any()))
+                .thenThrow(new InvalidDateRangeException());
+
+        mockMvc.perform(get("/api/rewards/CUST001")
+                        .param("fromDate", "2024-07-01")
+                        .param("toDate", "2024-06-30"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/problem+json"))
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.detail").value("Invalid date range: fromDate cannot be after toDate."));
     }
-}
\ No newline at end of file
+}
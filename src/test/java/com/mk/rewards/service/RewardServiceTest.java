@@ -5,6 +5,10 @@
  */
 package com.mk.rewards.service;
 
+import com.mk.rewards.aggregate.RewardAggregateStore;
+import com.mk.rewards.aggregate.RewardWindow;
+import com.mk.rewards.cache.KnownCustomerFilter;
+import com.mk.rewards.dto.TransactionRewardRow;
 import com.mk.rewards.exception.CustomerNotFoundException;
 import com.mk.rewards.policy.DefaultRewardPolicy;
 import org.mockito.Mockito;
@@ -19,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.mk.rewards.model.Transaction;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class RewardServiceTest {
 
@@ -28,7 +33,8 @@ public class RewardServiceTest {
     @BeforeEach
     public void setup() {
         mockRepository = Mockito.mock(TransactionRepository.class);
-        rewardService = new RewardService(mockRepository);
+        rewardService = new RewardService(mockRepository, new KnownCustomerFilter(mockRepository),
+                new RewardAggregateStore(mockRepository, 35, 86_400_000L));
     }
 
     @Test
@@ -76,6 +82,77 @@ public class RewardServiceTest {
         assertTrue(ex.getMessage().contains("No transactions found"));
     }
 
+    @Test
+    public void testUnknownCustomerRejectedWithoutTransactionLookup() {
+        Mockito.when(mockRepository.countDistinctCustomerIds()).thenReturn(2L);
+        Mockito.when(mockRepository.streamDistinctCustomerIds()).thenReturn(Stream.of("CUST001", "CUST003"));
+        KnownCustomerFilter filter = new KnownCustomerFilter(mockRepository);
+        filter.rebuild();
+        rewardService = new RewardService(mockRepository, filter, new RewardAggregateStore(mockRepository, 35, 86_400_000L));
+
+        Exception ex = assertThrows(CustomerNotFoundException.class, () -> {
+            rewardService.calculateRewards("INVALID_ID", null, null);
+        });
+        assertTrue(ex.getMessage().contains("No transactions found"));
+        assertEquals(0, ex.getStackTrace().length);
+        Mockito.verify(mockRepository, Mockito.never()).findByCustomerIdIgnoreCase(Mockito.anyString());
+    }
+
+    @Test
+    public void testCalculateWindowRewardsFromAggregates() {
+        Mockito.when(mockRepository.streamRewardRowsSince(Mockito.any())).thenReturn(Stream.of(
+            new TransactionRewardRow("CUST001", "Murali Krishna", LocalDate.of(2024, 4, 15), 120.0),
+            new TransactionRewardRow("CUST001", "Murali Krishna", LocalDate.of(2024, 5, 10), 90.0),
+            new TransactionRewardRow("CUST001", "Murali Krishna", LocalDate.of(2024, 6, 5), 130.0),
+            new TransactionRewardRow("CUST001", "Murali Krishna", LocalDate.of(2024, 6, 18), 100.0)
+        ));
+        RewardAggregateStore store = new RewardAggregateStore(mockRepository, 35, 86_400_000L);
+        store.refresh();
+        rewardService = new RewardService(mockRepository, new KnownCustomerFilter(mockRepository), store);
+
+        // 2024-04-11 .. 2024-06-10: partial April and June, whole May
+        var response = rewardService.calculateWindowRewards("cust001", RewardWindow.parse("61d"), LocalDate.of(2024, 6, 10));
+
+        assertEquals(LocalDate.of(2024, 4, 11), response.getFromDate());
+        assertEquals(3, response.getMonthlyRewards().size());
+        assertEquals(90, response.getMonthlyRewards().get("2024-04"));
+        assertEquals(40, response.getMonthlyRewards().get("2024-05"));
+        assertEquals(110, response.getMonthlyRewards().get("2024-06"));
+        assertEquals(240, response.getTotalRewards());
+        assertNull(response.getTransactions());
+        Mockito.verify(mockRepository, Mockito.never()).findByCustomerIdIgnoreCaseAndTransactionDateBetween(
+                Mockito.anyString(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testCalculateWindowRewardsFallbackBeforeAggregatesAreBuilt() {
+        LocalDate from = LocalDate.of(2024, 4, 11);
+        LocalDate to = LocalDate.of(2024, 6, 10);
+        Mockito.when(mockRepository.findByCustomerIdIgnoreCaseAndTransactionDateBetween("CUST001", from, to)).thenReturn(List.of(
+            new Transaction("TXN1002", "CUST001", "Murali Krishna", 90.0, LocalDate.of(2024, 5, 10))
+        ));
+
+        var response = rewardService.calculateWindowRewards("CUST001", RewardWindow.parse("61d"), to);
+
+        assertEquals(40, response.getTotalRewards());
+        assertNull(response.getTransactions());
+    }
+
+    @Test
+    public void testCalculateWindowRewardsNoTransactionsInWindow() {
+        Mockito.when(mockRepository.streamRewardRowsSince(Mockito.any())).thenReturn(Stream.of(
+            new TransactionRewardRow("CUST001", "Murali Krishna", LocalDate.of(2024, 4, 15), 120.0)
+        ));
+        RewardAggregateStore store = new RewardAggregateStore(mockRepository, 35, 86_400_000L);
+        store.refresh();
+        rewardService = new RewardService(mockRepository, new KnownCustomerFilter(mockRepository), store);
+
+        Exception ex = assertThrows(CustomerNotFoundException.class, () -> {
+            rewardService.calculateWindowRewards("CUST001", RewardWindow.parse("3m"), LocalDate.of(2025, 1, 31));
+        });
+        assertTrue(ex.getMessage().contains("No transactions found"));
+    }
+
     @Test
     public void testValidCustomerNoTransactionsInDateRange() {
         LocalDate from = LocalDate.of(2023, 1, 1);
@@ -0,0 +1,55 @@
+package com.mk.rewards.statement;
+
+import com.mk.rewards.model.RewardStatement;
+import com.mk.rewards.model.StatementCheckpoint;
+import com.mk.rewards.repository.RewardStatementRepository;
+import com.mk.rewards.repository.StatementCheckpointRepository;
+import com.mk.rewards.repository.StatementJobLockRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests that a statement run stops writing once its lease is lost.
+ */
+@SpringBootTest(properties = "rewards.statements.batch-size=1")
+public class StatementJobLeaseTest {
+
+    @Autowired
+    private StatementJob statementJob;
+
+    @Autowired
+    private RewardStatementRepository statementRepository;
+
+    @Autowired
+    private StatementCheckpointRepository checkpointRepository;
+
+    @MockBean
+    private StatementJobLockRepository lockRepository;
+
+    @Test
+    public void testStopsPartitionWhenLeaseIsLostBeforeCommit() {
+        // Taken for the run and the first batch, then lost to another instance
+        when(lockRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(1, 1, 0);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> statementJob.generate(YearMonth.of(2024, 5)));
+        assertTrue(ex.getCause().getMessage().contains("lease lost"));
+
+        List<RewardStatement> statements = statementRepository.findByStatementMonthOrderByCustomerId("2024-05");
+        assertEquals(1, statements.size());
+        assertEquals("CUST001", statements.get(0).getCustomerId());
+        StatementCheckpoint checkpoint = checkpointRepository.findByStatementMonthOrderByPartitionIndex("2024-05").get(0);
+        assertEquals("CUST001", checkpoint.getLastCustomerId());
+        assertFalse(checkpoint.isCompleted());
+    }
+}
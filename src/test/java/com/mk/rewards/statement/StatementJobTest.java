@@ -0,0 +1,162 @@
+package com.mk.rewards.statement;
+
+import com.mk.rewards.RewardsApiApplication;
+import com.mk.rewards.model.RewardStatement;
+import com.mk.rewards.model.StatementCheckpoint;
+import com.mk.rewards.repository.RewardStatementRepository;
+import com.mk.rewards.repository.StatementCheckpointRepository;
+import com.mk.rewards.repository.StatementJobLockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the monthly statement job against the sample data in data.sql.
+ */
+@SpringBootTest(properties = {
+        "rewards.statements.partition-size=1",
+        "rewards.statements.parallelism=2"
+})
+public class StatementJobTest {
+
+    @Autowired
+    private StatementJob statementJob;
+
+    @Autowired
+    private RewardStatementRepository statementRepository;
+
+    @Autowired
+    private StatementCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private StatementJobLockRepository lockRepository;
+
+    @AfterEach
+    public void cleanup() {
+        statementRepository.deleteAll();
+        checkpointRepository.deleteAll();
+    }
+
+    @Test
+    public void testGenerateStatementsAcrossPartitions() {
+        StatementJobReport report = statementJob.generate(YearMonth.of(2024, 5));
+
+        assertEquals(3, report.getPartitions());
+        assertEquals(3, report.getCustomers());
+        assertEquals(3, report.getPartitionMillis().size());
+
+        List<RewardStatement> statements = statementRepository.findByStatementMonthOrderByCustomerId("2024-05");
+        assertEquals(3, statements.size());
+        assertEquals("CUST001", statements.get(0).getCustomerId());
+        assertEquals(40, statements.get(0).getTotalRewards());
+        assertEquals(52, statements.get(1).getTotalRewards());
+        assertEquals(5, statements.get(2).getTotalRewards());
+
+        assertTrue(checkpointRepository.findByStatementMonthOrderByPartitionIndex("2024-05").stream()
+                .allMatch(StatementCheckpoint::isCompleted));
+    }
+
+    @Test
+    public void testResumeSkipsCompletedPartitions() {
+        StatementCheckpoint done = new StatementCheckpoint("2024-06", 0, "", "CUST003");
+        done.markCompleted();
+        checkpointRepository.saveAll(List.of(done, new StatementCheckpoint("2024-06", 1, "CUST003", null)));
+
+        StatementJobReport report = statementJob.generate(YearMonth.of(2024, 6));
+
+        assertEquals(1, report.getCustomers());
+        assertEquals(List.of(1), List.copyOf(report.getPartitionMillis().keySet()));
+        List<RewardStatement> statements = statementRepository.findByStatementMonthOrderByCustomerId("2024-06");
+        assertEquals(1, statements.size());
+        assertEquals("CUST004", statements.get(0).getCustomerId());
+        assertEquals(250, statements.get(0).getTotalRewards());
+    }
+
+    @Test
+    public void testResumeContinuesAfterLastCommittedCustomer() {
+        // Bounded partition interrupted after CUST001; the open-ended one already finished
+        StatementCheckpoint interrupted = new StatementCheckpoint("2024-05", 0, "", "CUST004");
+        interrupted.advanceTo("CUST001");
+        StatementCheckpoint done = new StatementCheckpoint("2024-05", 1, "CUST004", null);
+        done.markCompleted();
+        checkpointRepository.saveAll(List.of(interrupted, done));
+
+        StatementJobReport may = statementJob.generate(YearMonth.of(2024, 5));
+
+        assertEquals(1, may.getCustomers());
+        List<RewardStatement> mayStatements = statementRepository.findByStatementMonthOrderByCustomerId("2024-05");
+        assertEquals(1, mayStatements.size());
+        assertEquals("CUST003", mayStatements.get(0).getCustomerId());
+
+        // Open-ended partition interrupted after CUST001
+        StatementCheckpoint tail = new StatementCheckpoint("2024-06", 0, "", null);
+        tail.advanceTo("CUST001");
+        checkpointRepository.save(tail);
+
+        StatementJobReport june = statementJob.generate(YearMonth.of(2024, 6));
+
+        assertEquals(1, june.getCustomers());
+        List<RewardStatement> juneStatements = statementRepository.findByStatementMonthOrderByCustomerId("2024-06");
+        assertEquals(1, juneStatements.size());
+        assertEquals("CUST004", juneStatements.get(0).getCustomerId());
+    }
+
+    @Test
+    public void testSkipsRunWhileAnotherInstanceHoldsTheLease() {
+        LocalDateTime now = LocalDateTime.now();
+        assertEquals(1, lockRepository.acquire("statements", "other-instance", now, now.plusHours(1)));
+        try {
+            assertThrows(IllegalStateException.class, () -> statementJob.generate(YearMonth.of(2024, 5)));
+            assertTrue(statementRepository.findByStatementMonthOrderByCustomerId("2024-05").isEmpty());
+            assertTrue(checkpointRepository.findByStatementMonthOrderByPartitionIndex("2024-05").isEmpty());
+        } finally {
+            lockRepository.release("statements", "other-instance", now);
+        }
+    }
+
+    @Test
+    public void testResumesAfterApplicationRestart() {
+        String url = "jdbc:h2:mem:restart-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+        // First run is interrupted after committing CUST001 and leaves an expired lease behind
+        try (ConfigurableApplicationContext context = start(url)) {
+            StatementCheckpoint interrupted = new StatementCheckpoint("2024-05", 0, "", null);
+            interrupted.advanceTo("CUST001");
+            context.getBean(StatementCheckpointRepository.class).save(interrupted);
+            context.getBean(RewardStatementRepository.class)
+                    .save(new RewardStatement("2024-05", "CUST001", "Murali Krishna", 40));
+            LocalDateTime now = LocalDateTime.now();
+            assertEquals(1, context.getBean(StatementJobLockRepository.class)
+                    .acquire("statements", "crashed-instance", now, now));
+        }
+
+        try (ConfigurableApplicationContext context = start(url)) {
+            assertEquals("crashed-instance",
+                    context.getBean(StatementJobLockRepository.class).findById("statements").orElseThrow().getOwner());
+
+            StatementJobReport report = context.getBean(StatementJob.class).generate(YearMonth.of(2024, 5));
+
+            assertEquals(1, report.getPartitions());
+            assertEquals(2, report.getCustomers());
+            List<RewardStatement> statements = context.getBean(RewardStatementRepository.class)
+                    .findByStatementMonthOrderByCustomerId("2024-05");
+            assertEquals(List.of("CUST001", "CUST003", "CUST004"),
+                    statements.stream().map(RewardStatement::getCustomerId).toList());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String datasourceUrl) {
+        return new SpringApplicationBuilder(RewardsApiApplication.class)
+                .run("--spring.main.web-application-type=none", "--spring.datasource.url=" + datasourceUrl);
+    }
+}